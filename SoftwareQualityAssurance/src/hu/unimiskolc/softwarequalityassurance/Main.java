@@ -28,17 +28,30 @@ public class Main {
 	 * {@link LinearCongruentialGenerator} class which generates a mathematical
 	 * sequence and calculates the length of the longest repetition of
 	 * this sequence.
-	 * @param args are not used in this program
+	 * @param args the optional number of worker threads, if it is a positive
+	 * integer the cycle lengths are calculated in parallel
 	 */
 	public static void main(String[] args) {
 		int numberOfTestCases;
+		int parallelism = 0;
+		
+		if (args.length > 0)	{
+			try {
+				parallelism = Integer.parseInt(args[0]);
+			} catch (NumberFormatException e) {
+				System.out.println("Invalid number of worker threads, the calculation is sequential!");
+			}
+		}
 		Scanner scanner = new Scanner(System.in);
 		numberOfTestCases = scanner.nextInt();
 		
 		for (int index = 0; index < numberOfTestCases; index++)	{
 			try {
 				lcg.readFromConsoleInput(scanner);
-				System.out.println(lcg.calculateCycleLength());
+				if (parallelism > 0)
+					System.out.println(lcg.calculateCycleLengthInParallel(parallelism));
+				else
+					System.out.println(lcg.calculateCycleLength());
 			} catch (IOException e) {
 				System.out.println("Error occurred while reading from console input!");
 				e.printStackTrace();
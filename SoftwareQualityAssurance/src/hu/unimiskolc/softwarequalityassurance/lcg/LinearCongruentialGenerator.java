@@ -217,6 +217,26 @@ public class LinearCongruentialGenerator {
 		
 	}
 	
+	/**
+	 * Calculates the length of the longest repetition with several worker threads
+	 * and without storing the sequences. It is meant for a single parameter set
+	 * with a huge 'm' parameter. The result is the smallest period of the sequence Y,
+	 * which may be smaller than the result of {@link LinearCongruentialGenerator#calculateCycleLength},
+	 * see {@link ParallelCycleLengthCalculator}. If the parameters are not supported
+	 * by the parallel calculation, it falls back to
+	 * {@link LinearCongruentialGenerator#calculateCycleLength}.
+	 * @param parallelism the number of worker threads
+	 * @return the length of the longest repetition if it is exist, 0 otherwise
+	 */
+	public long calculateCycleLengthInParallel(int parallelism) {
+		ParallelCycleLengthCalculator calculator = new ParallelCycleLengthCalculator(a, c, m, k, parallelism);
+		
+		if (calculator.isSupported())
+			return calculator.calculateCycleLength();
+		else
+			return calculateCycleLength();
+	}
+	
 	/**
 	 * Calculates the length of the cycle in the sequence Y if it exists.
 	 * Firstly it tries to find a possible cycle, afterwards it checks whether
@@ -0,0 +1,525 @@
+/*
+ * @(#)ParallelCycleLengthCalculator.java		1.0 26/10/19
+ *
+ * Copyright (c) 2026 University of Miskolc
+ */
+
+package hu.unimiskolc.softwarequalityassurance.lcg;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class calculates the length of the longest repetition in the
+ * sequence Y for a single, possibly huge parameter set by using several
+ * worker threads of a {@link ForkJoinPool}. Neither of the sequences is
+ * stored.
+ * <p>
+ * The period of the sequence X is searched with distinguished points
+ * (van Oorschot and Wiener): the orbit is cut into chunks, every worker
+ * jumps ahead to the beginning of its chunk and walks it, and only the
+ * distinguished elements are recorded together with their position. When
+ * a distinguished element is met at two different positions, their
+ * distance is a multiple of the period, which is then reduced to the
+ * period itself. The period of the sequence Y is the smallest divisor of
+ * the X period for which the shifted Y sequence is verified, in parallel,
+ * to be equal to itself along the whole cycle.
+ * <p>
+ * The result is the smallest period of the sequence Y, which may be
+ * smaller than the result of {@link LinearCongruentialGenerator#calculateCycleLength}.
+ * That method only accepts a period whose elements are all different and
+ * compares the elements of the sequence Y by reference, so for example
+ * the Y sequence 0, 1, 0, 0, 1, 0 gives 6 there and 3 here. The result of
+ * this class is the correct one. Furthermore, the elements of the sequence
+ * X are calculated exactly even if a * (m - 1) + c overflows.
+ * <p>
+ * The calculation requires that the 'a' and 'c' parameters are not
+ * negative and the 'k' parameter is not zero, see {@link #isSupported}.
+ *
+ * @version 1.0 19 October 2026
+ */
+public class ParallelCycleLengthCalculator {
+
+	/**
+	 * The default number of elements walked by a single worker at once.
+	 */
+	static final int DEFAULT_CHUNK_SIZE = 1 << 22;
+
+	/**
+	 * The expected number of distinguished elements is kept around
+	 * two to the power of this value, which bounds the used memory.
+	 */
+	static final int DISTINGUISHED_ELEMENT_COUNT_BITS = 16;
+
+	/**
+	 * The largest module for which the product of two elements is reduced
+	 * with the help of a floating point quotient.
+	 */
+	static final long FLOATING_POINT_REDUCTION_LIMIT = 1L << 56;
+
+	/**
+	 * The constant parameters of the generator.
+	 */
+	private final long a, c;
+
+	/**
+	 * The module parameters of the generator.
+	 */
+	private final long m, k;
+
+	/**
+	 * The constant parameters of the generator reduced by the 'm' parameter.
+	 */
+	private final long reducedA, reducedC;
+
+	/**
+	 * True if a * (m - 1) + c does not overflow, so the next element can be
+	 * calculated in the same way as {@link LinearCongruentialGenerator#generateNextSequenceXElement}.
+	 */
+	private final boolean overflowFree;
+
+	/**
+	 * The number of worker threads.
+	 */
+	private final int parallelism;
+
+	/**
+	 * The number of elements walked by a single worker at once.
+	 */
+	private final int chunkSize;
+
+	/**
+	 * An element is distinguished if its mixed value masked by this
+	 * mask is zero.
+	 */
+	private final long distinguishedMask;
+
+	/**
+	 * An open addressing hash table of the elements at the positions
+	 * of powers of two. These elements are always distinguished, which
+	 * guarantees that the search terminates even if the cycle contains
+	 * no distinguished element by chance. Empty slots contain -1.
+	 */
+	private long[] anchorTable;
+
+	/**
+	 * Creates a calculator for the given parameters.
+	 * @param a the 'a' parameter of the generator
+	 * @param c the 'c' parameter of the generator
+	 * @param m the 'm' parameter of the generator
+	 * @param k the 'k' parameter of the generator
+	 * @param parallelism the number of worker threads
+	 */
+	public ParallelCycleLengthCalculator(long a, long c, long m, long k, int parallelism) {
+		this(a, c, m, k, parallelism, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Creates a calculator for the given parameters with the given chunk size.
+	 * @param a the 'a' parameter of the generator
+	 * @param c the 'c' parameter of the generator
+	 * @param m the 'm' parameter of the generator
+	 * @param k the 'k' parameter of the generator
+	 * @param parallelism the number of worker threads
+	 * @param chunkSize the number of elements walked by a single worker at once
+	 */
+	ParallelCycleLengthCalculator(long a, long c, long m, long k, int parallelism, int chunkSize) {
+		super();
+		if (parallelism < 1)
+			throw new IllegalArgumentException("The parallelism must be positive!");
+		if (chunkSize < 1)
+			throw new IllegalArgumentException("The chunk size must be positive!");
+		this.a = a;
+		this.c = c;
+		this.m = m;
+		this.k = k;
+		this.parallelism = parallelism;
+		this.chunkSize = chunkSize;
+
+		this.reducedA = m > 0 ? Math.floorMod(a, m) : 0;
+		this.reducedC = m > 0 ? Math.floorMod(c, m) : 0;
+		this.overflowFree = m <= 1 || (a >= 0 && c >= 0 && a <= (Long.MAX_VALUE - c) / (m - 1));
+
+		int bitLengthOfM = 64 - Long.numberOfLeadingZeros(Math.max(m, 1));
+		this.distinguishedMask = (1L << Math.max(0, bitLengthOfM - DISTINGUISHED_ELEMENT_COUNT_BITS)) - 1;
+	}
+
+	/**
+	 * Decides whether the parameters are supported by the parallel calculation.
+	 * @return true if the 'm' parameter is not positive, or the 'a' and 'c'
+	 * parameters are not negative and the 'k' parameter is not zero
+	 */
+	public boolean isSupported() {
+		return m <= 0 || (a >= 0 && c >= 0 && k != 0);
+	}
+
+	/**
+	 * Calculates the length of the longest repetition in the sequence Y.
+	 * @return the length of the longest repetition if it is exist, 0 otherwise
+	 */
+	public long calculateCycleLength() {
+		if (m <= 0)
+			return 0;
+
+		if (!isSupported())
+			throw new IllegalArgumentException("The parameters are not supported by the parallel calculation!");
+
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			long[] cycle = findCycleOfSequenceX(pool);
+			return findCycleOfSequenceY(pool, cycle[0], cycle[1]);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Searches the cycle of the sequence X with distinguished elements.
+	 * @param pool the pool which runs the workers
+	 * @return the position of an element in the cycle and the length of the cycle
+	 */
+	long[] findCycleOfSequenceX(ForkJoinPool pool) {
+		ConcurrentMap<Long, Long> distinguishedElements = new ConcurrentHashMap<>();
+		AtomicLong collisionPosition = new AtomicLong(-1);
+		AtomicLong distanceOfCollision = new AtomicLong(Long.MAX_VALUE);
+
+		buildAnchorTable();
+
+		long roundSize = (long) chunkSize * parallelism;
+		for (long roundStart = 0; distanceOfCollision.get() == Long.MAX_VALUE; roundStart += roundSize)	{
+			if (roundStart / 3 > m)
+				throw new IllegalStateException("No cycle found in the sequence X!");
+
+			List<RecursiveAction> walkers = new ArrayList<>();
+			for (int index = 0; index < parallelism; index++)	{
+				long chunkStart = roundStart + (long) index * chunkSize;
+				walkers.add(new RecursiveAction() {
+					private static final long serialVersionUID = 1L;
+
+					@Override
+					protected void compute() {
+						walkChunk(chunkStart, distinguishedElements, collisionPosition, distanceOfCollision);
+					}
+				});
+			}
+			pool.submit(() -> RecursiveAction.invokeAll(walkers)).join();
+		}
+
+		long position = collisionPosition.get();
+		long element = jumpAhead(0, position);
+		long lengthOfCycle = distanceOfCollision.get();
+
+		for (long prime : primeFactorsOf(lengthOfCycle))	{
+			while (lengthOfCycle % prime == 0 && jumpAhead(element, lengthOfCycle / prime) == element)
+				lengthOfCycle /= prime;
+		}
+
+		return new long[] {position, lengthOfCycle};
+	}
+
+	/**
+	 * Walks a chunk of the sequence X and records its distinguished elements.
+	 * @param chunkStart the position of the first element of the chunk
+	 * @param distinguishedElements the distinguished elements found so far with their positions
+	 * @param collisionPosition the smaller position of the collision found
+	 * @param distanceOfCollision the distance between the positions of the collision found
+	 */
+	void walkChunk(long chunkStart, ConcurrentMap<Long, Long> distinguishedElements,
+			AtomicLong collisionPosition, AtomicLong distanceOfCollision)	{
+		long currentXElement = jumpAhead(0, chunkStart);
+
+		for (long position = chunkStart; position < chunkStart + chunkSize; position++)	{
+			if (isDistinguished(currentXElement))	{
+				Long previousPosition = distinguishedElements.putIfAbsent(currentXElement, position);
+				if (previousPosition != null && previousPosition != position)	{
+					recordCollision(Math.min(previousPosition, position),
+							Math.abs(position - previousPosition), collisionPosition, distanceOfCollision);
+					return;
+				}
+				if (distanceOfCollision.get() != Long.MAX_VALUE)
+					return;
+			}
+			currentXElement = generateNextSequenceXElement(currentXElement);
+		}
+	}
+
+	/**
+	 * Stores the collision if its distance is the smallest one found so far.
+	 * @param position the smaller position of the collision
+	 * @param distance the distance between the positions of the collision
+	 * @param collisionPosition the smaller position of the stored collision
+	 * @param distanceOfCollision the distance of the stored collision
+	 */
+	private synchronized void recordCollision(long position, long distance,
+			AtomicLong collisionPosition, AtomicLong distanceOfCollision)	{
+		if (distance < distanceOfCollision.get())	{
+			collisionPosition.set(position);
+			distanceOfCollision.set(distance);
+		}
+	}
+
+	/**
+	 * Calculates the length of the cycle in the sequence Y, which is the
+	 * smallest divisor of the length of the cycle in the sequence X by which
+	 * the sequence Y is periodic. Since the divisors which are periods are
+	 * the multiples of the smallest one, the exponent of each prime factor
+	 * is found by binary search.
+	 * @param pool the pool which runs the workers
+	 * @param startPosition the position of an element in the cycle of the sequence X
+	 * @param lengthOfCycle length of the cycle occurs in the sequence X
+	 * @return length of the cycle in the sequence Y
+	 */
+	long findCycleOfSequenceY(ForkJoinPool pool, long startPosition, long lengthOfCycle)	{
+		long startElement = jumpAhead(0, startPosition);
+		long lengthOfInsiderCycle = lengthOfCycle;
+
+		for (long prime : primeFactorsOf(lengthOfCycle))	{
+			List<Long> powers = new ArrayList<>();
+			powers.add(1L);
+			for (long quotient = lengthOfInsiderCycle; quotient % prime == 0; quotient /= prime)
+				powers.add(powers.get(powers.size() - 1) * prime);
+
+			int lowerExponent = 0, upperExponent = powers.size() - 1;
+			while (lowerExponent < upperExponent)	{
+				int middleExponent = (lowerExponent + upperExponent + 1) / 2;
+				long period = lengthOfInsiderCycle / powers.get(middleExponent);
+				if (pool.invoke(new PeriodicityVerifier(startElement, period, 0, lengthOfCycle - period, new AtomicBoolean())))
+					lowerExponent = middleExponent;
+				else
+					upperExponent = middleExponent - 1;
+			}
+			lengthOfInsiderCycle /= powers.get(lowerExponent);
+		}
+
+		return lengthOfInsiderCycle;
+	}
+
+	/**
+	 * Verifies in parallel whether the sequence Y is periodic by a given
+	 * period in a range of positions of the cycle. Checking the positions
+	 * from 0 to the length of the cycle minus the period is enough for a
+	 * period dividing the length of the cycle.
+	 */
+	private class PeriodicityVerifier extends RecursiveTask<Boolean> {
+
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The element of the sequence X at the position 0 of the range.
+		 */
+		private final long startElement;
+
+		/**
+		 * The period to verify.
+		 */
+		private final long period;
+
+		/**
+		 * The first and the after last positions of the range.
+		 */
+		private final long from, to;
+
+		/**
+		 * Set when any of the verifiers found a difference.
+		 */
+		private final AtomicBoolean differenceFound;
+
+		/**
+		 * Creates a verifier for a range.
+		 * @param startElement the element of the sequence X at the position 0
+		 * @param period the period to verify
+		 * @param from the first position of the range
+		 * @param to the after last position of the range
+		 * @param differenceFound the flag shared by the verifiers
+		 */
+		PeriodicityVerifier(long startElement, long period, long from, long to, AtomicBoolean differenceFound) {
+			this.startElement = startElement;
+			this.period = period;
+			this.from = from;
+			this.to = to;
+			this.differenceFound = differenceFound;
+		}
+
+		@Override
+		protected Boolean compute() {
+			if (to - from > chunkSize)	{
+				long middle = from + (to - from) / 2;
+				PeriodicityVerifier left = new PeriodicityVerifier(startElement, period, from, middle, differenceFound);
+				PeriodicityVerifier right = new PeriodicityVerifier(startElement, period, middle, to, differenceFound);
+				left.fork();
+				boolean rightResult = right.compute();
+				return left.join() && rightResult;
+			}
+
+			long currentElement = jumpAhead(startElement, from);
+			long shiftedElement = jumpAhead(currentElement, period);
+
+			for (long position = from; position < to; position++)	{
+				if (currentElement % k != shiftedElement % k)	{
+					differenceFound.set(true);
+					return false;
+				}
+				if ((position & 0xFFFF) == 0 && differenceFound.get())
+					return false;
+				currentElement = generateNextSequenceXElement(currentElement);
+				shiftedElement = generateNextSequenceXElement(shiftedElement);
+			}
+
+			return true;
+		}
+	}
+
+	/**
+	 * Generates the next element of the X sequence based on the latest X element.
+	 * If a * (m - 1) + c would overflow, the element is calculated with
+	 * overflow-safe modular arithmetic.
+	 * @param currentXElement the latest element of the X sequence
+	 * @return the next element of the X sequence
+	 */
+	long generateNextSequenceXElement(long currentXElement)	{
+		if (overflowFree)
+			return (a * currentXElement + c) % m;
+		return addModulo(multiplyModulo(reducedA, currentXElement), reducedC);
+	}
+
+	/**
+	 * Calculates the product of two reduced elements modulo the 'm' parameter
+	 * without overflow. For modules up to {@link #FLOATING_POINT_REDUCTION_LIMIT}
+	 * the quotient is estimated in floating point, and the remainder, which is
+	 * exact in the wrapped 64-bit arithmetic, is corrected by a single reduction.
+	 * For larger modules the product is calculated by doubling and adding.
+	 * @param multiplicand an element less than the 'm' parameter
+	 * @param multiplier an element less than the 'm' parameter
+	 * @return the product modulo the 'm' parameter
+	 */
+	long multiplyModulo(long multiplicand, long multiplier)	{
+		if (m <= FLOATING_POINT_REDUCTION_LIMIT)	{
+			long quotient = (long) ((double) multiplicand * multiplier / m);
+			return Math.floorMod(multiplicand * multiplier - quotient * m, m);
+		}
+
+		long product = 0;
+		for (; multiplier > 0; multiplier >>= 1)	{
+			if ((multiplier & 1) == 1)
+				product = addModulo(product, multiplicand);
+			multiplicand = addModulo(multiplicand, multiplicand);
+		}
+		return product;
+	}
+
+	/**
+	 * Calculates the sum of two reduced elements modulo the 'm' parameter
+	 * without overflow.
+	 * @param augend an element less than the 'm' parameter
+	 * @param addend an element less than the 'm' parameter
+	 * @return the sum modulo the 'm' parameter
+	 */
+	private long addModulo(long augend, long addend)	{
+		return augend >= m - addend ? augend - (m - addend) : augend + addend;
+	}
+
+	/**
+	 * Decides whether an element of the sequence X is distinguished.
+	 * @param element an element of the sequence X
+	 * @return true if the element is distinguished, false otherwise
+	 */
+	boolean isDistinguished(long element)	{
+		long mixedElement = mix(element);
+		if ((mixedElement & distinguishedMask) == 0)
+			return true;
+
+		for (int slot = (int) (mixedElement >>> 57); anchorTable[slot] != -1; slot = (slot + 1) & 127)	{
+			if (anchorTable[slot] == element)
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Builds the table of the elements at the positions of powers of two
+	 * up to the first power which is not less than the 'm' parameter.
+	 */
+	private void buildAnchorTable()	{
+		anchorTable = new long[128];
+		Arrays.fill(anchorTable, -1);
+
+		for (long position = 1; ; position <<= 1)	{
+			long element = jumpAhead(0, position);
+			int slot = (int) (mix(element) >>> 57);
+			while (anchorTable[slot] != -1 && anchorTable[slot] != element)
+				slot = (slot + 1) & 127;
+			anchorTable[slot] = element;
+
+			if (position >= m || position > Long.MAX_VALUE / 2)
+				break;
+		}
+	}
+
+	/**
+	 * Scrambles the bits of an element, because the low bits of the
+	 * generated elements are not random enough to pick distinguished ones.
+	 * @param element an element of the sequence X
+	 * @return the scrambled value
+	 */
+	static long mix(long element)	{
+		element = (element ^ (element >>> 33)) * 0xff51afd7ed558ccdL;
+		element = (element ^ (element >>> 33)) * 0xc4ceb9fe1a85ec53L;
+		return element ^ (element >>> 33);
+	}
+
+	/**
+	 * Calculates the element of the sequence X which follows the given
+	 * element by the given number of steps, in logarithmic time.
+	 * @param element an element of the sequence X
+	 * @param steps the number of steps
+	 * @return the element after the given number of steps
+	 */
+	long jumpAhead(long element, long steps)	{
+		BigInteger module = BigInteger.valueOf(m);
+		BigInteger multiplier = BigInteger.ONE, increment = BigInteger.ZERO;
+		BigInteger stepMultiplier = BigInteger.valueOf(reducedA);
+		BigInteger stepIncrement = BigInteger.valueOf(reducedC);
+
+		for (long remainingSteps = steps; remainingSteps > 0; remainingSteps >>= 1)	{
+			if ((remainingSteps & 1) == 1)	{
+				multiplier = multiplier.multiply(stepMultiplier).mod(module);
+				increment = increment.multiply(stepMultiplier).add(stepIncrement).mod(module);
+			}
+			stepIncrement = stepIncrement.multiply(stepMultiplier).add(stepIncrement).mod(module);
+			stepMultiplier = stepMultiplier.multiply(stepMultiplier).mod(module);
+		}
+
+		return multiplier.multiply(BigInteger.valueOf(element)).add(increment).mod(module).longValue();
+	}
+
+	/**
+	 * Collects the distinct prime factors of a positive number by trial division.
+	 * @param number a positive number
+	 * @return the distinct prime factors in increasing order
+	 */
+	static List<Long> primeFactorsOf(long number)	{
+		List<Long> primeFactors = new ArrayList<>();
+
+		for (long divisor = 2; divisor <= number / divisor; divisor++)	{
+			if (number % divisor == 0)	{
+				primeFactors.add(divisor);
+				while (number % divisor == 0)
+					number /= divisor;
+			}
+		}
+		if (number > 1)
+			primeFactors.add(number);
+
+		return primeFactors;
+	}
+
+}
@@ -0,0 +1,238 @@
+/*
+ * @(#)ParallelCycleLengthCalculatorTest.java		1.0 26/10/19
+ *
+ * Copyright (c) 2026 University of Miskolc
+ */
+
+package hu.unimiskolc.softwarequalityassurance.lcg;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Test class for {@link ParallelCycleLengthCalculator} class. It provides
+ * unit tests.
+ *
+ * @version 1.0 19 October 2026
+ */
+class ParallelCycleLengthCalculatorTest {
+
+	/**
+	 * Generates the next element of the X sequence with exact arithmetic.
+	 * @param a the 'a' parameter of the generator
+	 * @param c the 'c' parameter of the generator
+	 * @param m the 'm' parameter of the generator
+	 * @param currentXElement the latest element of the X sequence
+	 * @return the next element of the X sequence
+	 */
+	private static long generateNextElement(long a, long c, long m, long currentXElement)	{
+		return BigInteger.valueOf(a).multiply(BigInteger.valueOf(currentXElement))
+				.add(BigInteger.valueOf(c)).mod(BigInteger.valueOf(m)).longValue();
+	}
+
+	/**
+	 * Reference implementation of the cycle search of the X sequence by
+	 * Brent's cycle finding algorithm.
+	 * @param a the 'a' parameter of the generator
+	 * @param c the 'c' parameter of the generator
+	 * @param m the 'm' parameter of the generator
+	 * @return the length of the tail and the length of the cycle
+	 */
+	private static long[] findCycleByBrent(long a, long c, long m)	{
+		long power = 1, lengthOfCycle = 1;
+		long tortoise = 0, hare = generateNextElement(a, c, m, 0);
+		while (tortoise != hare)	{
+			if (power == lengthOfCycle)	{
+				tortoise = hare;
+				power *= 2;
+				lengthOfCycle = 0;
+			}
+			hare = generateNextElement(a, c, m, hare);
+			lengthOfCycle++;
+		}
+
+		long lengthOfTail = 0;
+		tortoise = 0;
+		hare = 0;
+		for (long index = 0; index < lengthOfCycle; index++)
+			hare = generateNextElement(a, c, m, hare);
+		while (tortoise != hare)	{
+			tortoise = generateNextElement(a, c, m, tortoise);
+			hare = generateNextElement(a, c, m, hare);
+			lengthOfTail++;
+		}
+
+		return new long[] {lengthOfTail, lengthOfCycle};
+	}
+
+	/**
+	 * Test method for {@link ParallelCycleLengthCalculator#calculateCycleLength}.
+	 * @param a the 'a' parameter of the generator
+	 * @param c the 'c' parameter of the generator
+	 * @param m the 'm' parameter of the generator
+	 * @param k the 'k' parameter of the generator
+	 * @param expectedResult the result of the calculation beside the a, c, m,
+	 * and k parameters
+	 */
+	@ParameterizedTest
+	@DisplayName("Test for 'calculateCycleLength' method")
+	@CsvSource({"2643, 173052, 2029, 9, 2028", "2911, 86166, 2050, 14, 25",
+				"1115, 266190, 1393, 10, 198", "2373, 194924, 720, 10, 4",
+				"543, 88421, 1447, 9, 1446", "1866, 121353, 1613, 20, 1612",
+				"2582, 8024, 1969, 8, 890", "1801, 160908, 2174, 15, 181",
+				"1405, 194624, 2004, 10, 498", "2275, 224474, 1653, 6, 126",
+				"0, 0, 0, 0, 0", "1, 1, 4, 2, 2",
+				"4909, 1545, 1048576, 2, 2", "4909, 1545, 1048576, 1024, 1024"})
+	void testCalculateCycleLength(long a, long c, long m, long k, long expectedResult) {
+		long result = new ParallelCycleLengthCalculator(a, c, m, k, 3, 1 << 12).calculateCycleLength();
+
+		assertEquals(expectedResult, result);
+	}
+
+	/**
+	 * Test method for the parameter sets where the parallel calculation finds
+	 * the smallest period of the Y sequence, while
+	 * {@link LinearCongruentialGenerator#calculateCycleLength} gives a multiple of it.
+	 * @param a the 'a' parameter of the generator
+	 * @param c the 'c' parameter of the generator
+	 * @param m the 'm' parameter of the generator
+	 * @param k the 'k' parameter of the generator
+	 * @param expectedSequentialResult the result of the sequential calculation
+	 * @param expectedResult the smallest period of the Y sequence
+	 */
+	@ParameterizedTest
+	@DisplayName("Test for the difference from the sequential calculation")
+	@CsvSource({"566, 290508, 603, 2, 6, 3", "42, 218858, 2116, 8, 22, 11",
+				"328, 93936, 2800, 560, 20, 4"})
+	void testSmallestPeriodOfSequenceY(long a, long c, long m, long k, long expectedSequentialResult,
+			long expectedResult) {
+		LinearCongruentialGenerator lcg = new LinearCongruentialGenerator();
+		lcg.setParameters(a, c, m, k);
+
+		long sequentialResult = lcg.calculateCycleLength();
+		long result = lcg.calculateCycleLengthInParallel(2);
+
+		assertEquals(expectedSequentialResult, sequentialResult);
+		assertEquals(expectedResult, result);
+	}
+
+	/**
+	 * Test method for {@link ParallelCycleLengthCalculator#findCycleOfSequenceX}
+	 * with distinguished elements, anchors and several rounds of chunks.
+	 * The result is compared to Brent's cycle finding algorithm.
+	 * @param a the 'a' parameter of the generator
+	 * @param c the 'c' parameter of the generator
+	 * @param m the 'm' parameter of the generator
+	 * @param parallelism the number of worker threads
+	 * @param chunkSize the number of elements walked by a single worker at once
+	 */
+	@ParameterizedTest
+	@DisplayName("Test for 'findCycleOfSequenceX' method")
+	@CsvSource({"4909, 1545, 16777216, 4, 65536", "10, 3, 67108672, 3, 4096",
+				"6, 7, 1073738752, 2, 1024", "1125899906842627, 12345, 2097169, 3, 8192"})
+	void testFindCycleOfSequenceX(long a, long c, long m, int parallelism, int chunkSize) {
+		ParallelCycleLengthCalculator calculator = new ParallelCycleLengthCalculator(a, c, m, 1, parallelism, chunkSize);
+		long[] expectedResult = findCycleByBrent(a, c, m);
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+		long[] result = calculator.findCycleOfSequenceX(pool);
+		pool.shutdown();
+
+		assertTrue(result[0] >= expectedResult[0]);
+		assertEquals(expectedResult[1], result[1]);
+	}
+
+	/**
+	 * Test method for {@link ParallelCycleLengthCalculator#generateNextSequenceXElement}
+	 * when a * (m - 1) + c overflows, including a module which is too large for
+	 * the floating point reduction.
+	 * @param a the 'a' parameter of the generator
+	 * @param c the 'c' parameter of the generator
+	 * @param m the 'm' parameter of the generator
+	 */
+	@ParameterizedTest
+	@DisplayName("Test for 'generateNextSequenceXElement' method")
+	@CsvSource({"1125899906842627, 12345, 2097169", "9000000000, 77, 1000000000039",
+				"123456789012345, 987654321, 144115188075855859", "9223372036854775806, 3, 9223372036854775783"})
+	void testGenerateNextSequenceXElement(long a, long c, long m) {
+		ParallelCycleLengthCalculator calculator = new ParallelCycleLengthCalculator(a, c, m, 1, 1);
+		Random random = new Random(m);
+
+		for (int index = 0; index < 1000; index++)	{
+			long currentXElement = Math.floorMod(random.nextLong(), m);
+
+			long result = calculator.generateNextSequenceXElement(currentXElement);
+
+			assertEquals(generateNextElement(a, c, m, currentXElement), result);
+		}
+	}
+
+	/**
+	 * Test method for {@link ParallelCycleLengthCalculator#jumpAhead}.
+	 * @param a the 'a' parameter of the generator
+	 * @param c the 'c' parameter of the generator
+	 * @param m the 'm' parameter of the generator
+	 * @param steps the number of steps to jump ahead
+	 */
+	@ParameterizedTest
+	@DisplayName("Test for 'jumpAhead' method")
+	@CsvSource({"124, 321, 88657, 1424", "2342, 543543, 456, 1000", "5, 3, 1024, 0"})
+	void testJumpAhead(long a, long c, long m, long steps) {
+		ParallelCycleLengthCalculator calculator = new ParallelCycleLengthCalculator(a, c, m, 1, 1);
+		long expectedResult = 0;
+		for (long index = 0; index < steps; index++)
+			expectedResult = (a * expectedResult + c) % m;
+
+		long result = calculator.jumpAhead(0, steps);
+
+		assertEquals(expectedResult, result);
+	}
+
+	/**
+	 * Test method for {@link ParallelCycleLengthCalculator#primeFactorsOf}.
+	 */
+	@Test
+	@DisplayName("Test for 'primeFactorsOf' method")
+	void testPrimeFactorsOf() {
+		assertEquals(Arrays.asList(2L, 3L, 5L), ParallelCycleLengthCalculator.primeFactorsOf(360));
+		assertEquals(Arrays.asList(2029L), ParallelCycleLengthCalculator.primeFactorsOf(2029));
+
+		List<Long> result = ParallelCycleLengthCalculator.primeFactorsOf(1);
+
+		assertTrue(result.isEmpty());
+	}
+
+	/**
+	 * Test method for the parameter checks of {@link ParallelCycleLengthCalculator}
+	 * and the fallback of {@link LinearCongruentialGenerator#calculateCycleLengthInParallel}.
+	 */
+	@Test
+	@DisplayName("Test for unsupported parameters")
+	void testUnsupportedParameters() {
+		assertThrows(IllegalArgumentException.class, () -> new ParallelCycleLengthCalculator(1, 1, 4, 2, 0));
+		assertThrows(IllegalArgumentException.class, () -> new ParallelCycleLengthCalculator(1, 1, 4, 2, 1, 0));
+		assertFalse(new ParallelCycleLengthCalculator(-1, 1, 4, 2, 1).isSupported());
+		assertFalse(new ParallelCycleLengthCalculator(1, -1, 4, 2, 1).isSupported());
+		assertFalse(new ParallelCycleLengthCalculator(1, 1, 4, 0, 1).isSupported());
+		assertThrows(IllegalArgumentException.class,
+				() -> new ParallelCycleLengthCalculator(-1, 1, 4, 2, 1).calculateCycleLength());
+
+		LinearCongruentialGenerator lcg = new LinearCongruentialGenerator();
+		lcg.setParameters(-3, 5, 7, 2);
+
+		long result = lcg.calculateCycleLengthInParallel(2);
+
+		assertEquals(lcg.calculateCycleLength(), result);
+	}
+
+}